@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+# Measures time from JVM launch to the first successful GET /products.
+#
+# Usage: scripts/startup-benchmark.sh [jar] [runs] [-- extra JVM options]
+#   scripts/startup-benchmark.sh target/spring-boot-crud-example-2-0.0.1-SNAPSHOT.jar 5
+#   scripts/startup-benchmark.sh target/cds/spring-boot-crud-example-2-0.0.1-SNAPSHOT-cds.jar 5 -- -XX:SharedArchiveFile=app.jsa
+#
+# The jar is started from its own directory with a relative -jar path, the same way the CDS training run
+# (mvn -Pcds package) starts it; relative paths in the JVM options resolve against that directory too.
+# Prints one "run=<n> ms=<millis>" line per run followed by min/avg/max.
+set -euo pipefail
+
+JAR=${1:-target/spring-boot-crud-example-2-0.0.1-SNAPSHOT.jar}
+RUNS=${2:-5}
+shift $(( $# > 2 ? 2 : $# ))
+[[ "${1:-}" == "--" ]] && shift
+JVM_OPTS=("$@")
+
+JAR_DIR=$(dirname "$JAR")
+JAR_NAME=$(basename "$JAR")
+
+PORT=${PORT:-18080}
+PROFILE=${PROFILE:-prod}
+TIMEOUT_MS=${TIMEOUT_MS:-60000}
+
+now_ms() { date +%s%3N; }
+
+results=()
+for run in $(seq 1 "$RUNS"); do
+    start=$(now_ms)
+    (cd "$JAR_DIR" && exec java ${JVM_OPTS[@]+"${JVM_OPTS[@]}"} -Dspring.profiles.active="$PROFILE" -Dserver.port="$PORT" -jar "$JAR_NAME") >/dev/null 2>&1 &
+    pid=$!
+
+    elapsed=-1
+    while kill -0 "$pid" 2>/dev/null; do
+        if curl -fs -o /dev/null "http://localhost:$PORT/products"; then
+            elapsed=$(( $(now_ms) - start ))
+            break
+        fi
+        if (( $(now_ms) - start > TIMEOUT_MS )); then
+            break
+        fi
+        sleep 0.02
+    done
+
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+
+    if (( elapsed < 0 )); then
+        echo "run=$run failed" >&2
+        exit 1
+    fi
+    echo "run=$run ms=$elapsed"
+    results+=("$elapsed")
+done
+
+printf '%s\n' "${results[@]}" | awk '
+    NR == 1 || $1 < min { min = $1 }
+    NR == 1 || $1 > max { max = $1 }
+    { sum += $1 }
+    END { printf "min=%d avg=%d max=%d\n", min, sum / NR, max }'
@@ -0,0 +1,8 @@
+package com.javatechie.crud.example.ProductException;
+
+public class ExportJobNotFoundException extends RuntimeException {
+
+    public ExportJobNotFoundException(String message) {
+        super(message);
+    }
+}
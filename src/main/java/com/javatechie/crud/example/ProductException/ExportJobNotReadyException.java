@@ -0,0 +1,8 @@
+package com.javatechie.crud.example.ProductException;
+
+public class ExportJobNotReadyException extends RuntimeException {
+
+    public ExportJobNotReadyException(String message) {
+        super(message);
+    }
+}
@@ -2,12 +2,30 @@ package com.javatechie.crud.example;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
 
 @SpringBootApplication
+@EnableScheduling
 public class SpringBootCrudExample2Application {
 
-	public static void main(String[] args) {
-		SpringApplication.run(SpringBootCrudExample2Application.class, args);
+	public static void main(String[] args) throws IOException {
+		ConfigurableApplicationContext context = SpringApplication.run(SpringBootCrudExample2Application.class, args);
+
+		// CDS training run (mvn -Pcds package): serve one request so the first-request path is loaded too,
+		// then exit so the JVM dumps the class archive
+		if (Boolean.getBoolean("app.cds.training")) {
+			String port = context.getEnvironment().getProperty("local.server.port");
+			try (InputStream in = new URL("http://localhost:" + port + "/products").openStream()) {
+				in.readAllBytes();
+			} finally {
+				System.exit(SpringApplication.exit(context));
+			}
+		}
 	}
 
 }
@@ -1,13 +1,21 @@
 package com.javatechie.crud.example.controller;
 
 import com.javatechie.crud.example.entity.Product;
+import com.javatechie.crud.example.service.CsvExportInputStream;
+import com.javatechie.crud.example.service.CsvExportJob;
+import com.javatechie.crud.example.service.ProductExportService;
 import com.javatechie.crud.example.service.ProductService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
@@ -17,6 +25,9 @@ public class ProductController {
     @Autowired
     private ProductService service;
 
+    @Autowired
+    private ProductExportService exportService;
+
     @PostMapping("/addProduct")
     public Product addProduct(@RequestBody Product product) {
         return service.saveProduct(product);
@@ -63,4 +74,74 @@ public class ProductController {
                 .contentType(MediaType.parseMediaType("text/csv"))
                 .body(csvBytes);
     }
+
+    @PostMapping("/products/csv/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CsvExportJob startProductsCsvExport() {
+        return exportService.startExport();
+    }
+
+    @GetMapping("/products/csv/jobs/{id}")
+    public CsvExportJob getProductsCsvExport(@PathVariable String id) {
+        return exportService.getJob(id);
+    }
+
+    @PostMapping("/products/csv/jobs/{id}/resume")
+    public CsvExportJob resumeProductsCsvExport(@PathVariable String id) {
+        return exportService.resumeExport(id);
+    }
+
+    @GetMapping("/products/csv/jobs/{id}/download")
+    public ResponseEntity<Resource> downloadProductsCsvExport(@PathVariable String id,
+                                                              @RequestHeader HttpHeaders headers) throws IOException {
+        CsvExportJob job = exportService.getCompletedJob(id);
+        CsvExportInputStream csv = exportService.openExport(job);
+        try {
+            long size = csv.getSize();
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            long length = size;
+
+            // a single range is served from the part files; invalid or multi-range requests get the whole file
+            HttpRange range = singleRange(headers);
+            if (range != null) {
+                long start = range.getRangeStart(size);
+                long end = range.getRangeEnd(size);
+                if (start >= size || start > end) {
+                    csv.close();
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                            .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                            .build();
+                }
+                csv.skip(start);
+                length = end - start + 1;
+                csv.limit(length);
+                response = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+
+            return response
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=products.csv")
+                    .contentType(MediaType.parseMediaType("text/csv"))
+                    .contentLength(length)
+                    .body(new InputStreamResource(csv));
+        } catch (IOException | RuntimeException e) {
+            csv.close();
+            throw e;
+        }
+    }
+
+    @DeleteMapping("/products/csv/jobs/{id}")
+    public String deleteProductsCsvExport(@PathVariable String id) {
+        return exportService.deleteExport(id);
+    }
+
+    private HttpRange singleRange(HttpHeaders headers) {
+        try {
+            List<HttpRange> ranges = headers.getRange();
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package com.javatechie.crud.example.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate creates one instance per session (see {@code hibernate.session.events.auto}),
+ * so the start timestamps below are never shared between threads.
+ */
+public class DbTimeSessionEventListener implements SessionEventListener {
+
+    private long connectionAcquisitionStart;
+    private long prepareStart;
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionAcquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        DbTimeTracker.current().recordConnectionWait(System.nanoTime() - connectionAcquisitionStart);
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        prepareStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        DbTimeTracker.current().recordStatementTime(System.nanoTime() - prepareStart);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        DbTimeTracker tracker = DbTimeTracker.current();
+        tracker.recordStatementTime(System.nanoTime() - executeStart);
+        tracker.recordStatement();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        DbTimeTracker tracker = DbTimeTracker.current();
+        tracker.recordStatementTime(System.nanoTime() - batchStart);
+        tracker.recordStatement();
+    }
+}
@@ -0,0 +1,60 @@
+package com.javatechie.crud.example.metrics;
+
+import java.util.Locale;
+
+/**
+ * Per-thread accumulator for time spent in JDBC during the current request.
+ * Filled by {@link DbTimeSessionEventListener} and reset by {@link DbTimeFilter}.
+ */
+public final class DbTimeTracker {
+
+    private static final ThreadLocal<DbTimeTracker> CURRENT = ThreadLocal.withInitial(DbTimeTracker::new);
+
+    private long statementNanos;
+    private int statementCount;
+    private long connectionWaitNanos;
+
+    private DbTimeTracker() {
+    }
+
+    public static DbTimeTracker current() {
+        return CURRENT.get();
+    }
+
+    public static void reset() {
+        CURRENT.remove();
+    }
+
+    void recordStatementTime(long nanos) {
+        statementNanos += nanos;
+    }
+
+    void recordStatement() {
+        statementCount++;
+    }
+
+    void recordConnectionWait(long nanos) {
+        connectionWaitNanos += nanos;
+    }
+
+    public long getStatementNanos() {
+        return statementNanos;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getConnectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+
+    /**
+     * Formats the totals as a {@code Server-Timing} header value, e.g.
+     * {@code db;dur=12.345;desc="3 statements", db-pool;dur=0.120}.
+     */
+    public String toServerTiming() {
+        return String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d statements\", db-pool;dur=%.3f",
+                statementNanos / 1_000_000.0, statementCount, connectionWaitNanos / 1_000_000.0);
+    }
+}
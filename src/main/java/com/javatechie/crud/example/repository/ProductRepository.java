@@ -2,11 +2,21 @@ package com.javatechie.crud.example.repository;
 
 import com.javatechie.crud.example.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product,Integer> {
 
     Optional<Product> findByName(String name);
+
+    @Query("select min(p.id) from Product p")
+    Integer findMinId();
+
+    @Query("select max(p.id) from Product p")
+    Integer findMaxId();
+
+    List<Product> findByIdBetweenOrderByIdAsc(int fromId, int toId);
 }
 
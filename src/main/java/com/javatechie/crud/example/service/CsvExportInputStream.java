@@ -0,0 +1,122 @@
+package com.javatechie.crud.example.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+
+/**
+ * Reads a finished export as the CSV header followed by its part files in id order. Part files are opened
+ * lazily, {@link #skip(long)} seeks instead of reading, and the job counts as busy until the stream is closed,
+ * so its files cannot be deleted while it is being read.
+ */
+public class CsvExportInputStream extends InputStream {
+
+    private final CsvExportJob job;
+    private final byte[] header;
+    private final long[] partSizes;
+    private final long size;
+
+    private long position;
+    private long remaining;
+    private InputStream current;
+    private boolean closed;
+
+    CsvExportInputStream(CsvExportJob job, byte[] header) throws IOException {
+        this.job = job;
+        this.header = header;
+        this.partSizes = new long[job.getTotalParts()];
+        long total = header.length;
+        for (int part = 0; part < partSizes.length; part++) {
+            partSizes[part] = Files.size(job.partFile(part));
+            total += partSizes[part];
+        }
+        this.size = total;
+        this.remaining = total;
+    }
+
+    /**
+     * Total size of the export in bytes, independent of any skip or limit.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Stops the stream after {@code length} more bytes.
+     */
+    public void limit(long length) {
+        remaining = Math.min(remaining, length);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        while (remaining > 0) {
+            if (current == null) {
+                current = openAt(position);
+            }
+            int read = current.read(buffer, offset, (int) Math.min(length, remaining));
+            if (read < 0) {
+                current.close();
+                current = null;
+                continue;
+            }
+            position += read;
+            remaining -= read;
+            return read;
+        }
+        return -1;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = Math.max(0, Math.min(n, remaining));
+        if (skipped > 0 && current != null) {
+            current.close();
+            current = null;
+        }
+        position += skipped;
+        remaining -= skipped;
+        return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (current != null) {
+                current.close();
+            }
+        } finally {
+            job.releaseReader();
+        }
+    }
+
+    private InputStream openAt(long offset) throws IOException {
+        if (offset < header.length) {
+            return new ByteArrayInputStream(header, (int) offset, header.length - (int) offset);
+        }
+        long partOffset = offset - header.length;
+        for (int part = 0; part < partSizes.length; part++) {
+            if (partOffset < partSizes[part]) {
+                InputStream in = Files.newInputStream(job.partFile(part));
+                in.skipNBytes(partOffset);
+                return in;
+            }
+            partOffset -= partSizes[part];
+        }
+        throw new IOException("Offset " + offset + " is past the end of export " + job.getId());
+    }
+}
@@ -0,0 +1,150 @@
+package com.javatechie.crud.example.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * State of one partitioned CSV export. Part {@code i} covers ids
+ * {@code [firstId + i * rangeSize, firstId + (i + 1) * rangeSize - 1]} and is written to its own file,
+ * so a failed job can be resumed by re-running only the parts that are not {@link #PART_DONE}.
+ */
+public class CsvExportJob {
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    static final int PART_PENDING = 0;
+    static final int PART_RUNNING = 1;
+    static final int PART_DONE = 2;
+
+    private final String id;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final int firstId;
+    private final int lastId;
+    private final int rangeSize;
+    private final Path directory;
+    private final AtomicIntegerArray partStates;
+    private final AtomicInteger activeReaders = new AtomicInteger();
+
+    private volatile Status status = Status.RUNNING;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    CsvExportJob(String id, int firstId, int lastId, int rangeSize, int totalParts, Path directory) {
+        this.id = id;
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.rangeSize = rangeSize;
+        this.directory = directory;
+        this.partStates = new AtomicIntegerArray(totalParts);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public int getTotalParts() {
+        return partStates.length();
+    }
+
+    public int getCompletedParts() {
+        int completed = 0;
+        for (int i = 0; i < partStates.length(); i++) {
+            if (partStates.get(i) == PART_DONE) {
+                completed++;
+            }
+        }
+        return completed;
+    }
+
+    /**
+     * A job is busy while it is running, while parts submitted before a failure are still being written,
+     * or while a download is reading its part files.
+     */
+    boolean isBusy() {
+        if (status == Status.RUNNING || activeReaders.get() > 0) {
+            return true;
+        }
+        for (int i = 0; i < partStates.length(); i++) {
+            if (partStates.get(i) == PART_RUNNING) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void acquireReader() {
+        activeReaders.incrementAndGet();
+    }
+
+    void releaseReader() {
+        activeReaders.decrementAndGet();
+    }
+
+    @JsonIgnore
+    Path getDirectory() {
+        return directory;
+    }
+
+    Path partFile(int part) {
+        return directory.resolve(String.format("part-%06d.csv", part));
+    }
+
+    int partFromId(int part) {
+        return (int) (firstId + (long) part * rangeSize);
+    }
+
+    int partToId(int part) {
+        return (int) Math.min(lastId, firstId + (long) (part + 1) * rangeSize - 1);
+    }
+
+    boolean claimPart(int part) {
+        return partStates.compareAndSet(part, PART_PENDING, PART_RUNNING);
+    }
+
+    void completePart(int part) {
+        partStates.set(part, PART_DONE);
+        markCompletedIfAllPartsDone();
+    }
+
+    void failPart(int part, String message) {
+        partStates.set(part, PART_PENDING);
+        error = message;
+        status = Status.FAILED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    void markRunning() {
+        error = null;
+        finishedAt = null;
+        status = Status.RUNNING;
+    }
+
+    void markCompletedIfAllPartsDone() {
+        if (status == Status.RUNNING && getCompletedParts() == getTotalParts()) {
+            status = Status.COMPLETED;
+            finishedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.javatechie.crud.example.service;
+
+import com.javatechie.crud.example.ProductException.ExportJobNotFoundException;
+import com.javatechie.crud.example.ProductException.ExportJobNotReadyException;
+import com.javatechie.crud.example.entity.Product;
+import com.javatechie.crud.example.metrics.DbTimeTracker;
+import com.javatechie.crud.example.repository.ProductRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Exports {@code PRODUCT_TBL} as CSV by splitting it into id ranges that are fetched and encoded in parallel
+ * on a fixed-size pool. Each range is written to its own part file; the download streams the parts in id order.
+ * Job state lives in memory only, so finished jobs are removed after {@code app.export.retention} and job
+ * directories nobody owns (e.g. left by a previous run) are removed once they are older than that. Eager even
+ * under lazy initialization so that the startup cleanup and the retention schedule always run.
+ */
+@Service
+@Lazy(false)
+public class ProductExportService {
+
+    @Autowired
+    private ProductRepository repository;
+
+    @Value("${app.export.directory:${java.io.tmpdir}/product-exports}")
+    private String exportDirectory;
+
+    @Value("${app.export.range-size:50000}")
+    private int rangeSize;
+
+    @Value("${app.export.parallelism:4}")
+    private int parallelism;
+
+    @Value("${app.export.retention:24h}")
+    private Duration retention;
+
+    private static final Pattern PART_FILE_NAME = Pattern.compile("part-\\d{6,}\\.csv(\\.tmp)?");
+
+    private final Map<String, CsvExportJob> jobs = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        removeStaleExports();
+        startExecutor();
+    }
+
+    /**
+     * Deletes job directories that no job of this instance owns and that have not changed for longer than
+     * {@code app.export.retention}. Only directories named by a job id and holding nothing but part files
+     * are touched, so other instances sharing the directory and unrelated content are left alone.
+     */
+    void removeStaleExports() {
+        Path root = Paths.get(exportDirectory);
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(retention);
+        try (Stream<Path> children = Files.list(root)) {
+            for (Path child : (Iterable<Path>) children::iterator) {
+                if (isStaleJobDirectory(child, cutoff)) {
+                    FileSystemUtils.deleteRecursively(child);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not clean export directory " + root, e);
+        }
+    }
+
+    private boolean isStaleJobDirectory(Path directory, Instant cutoff) throws IOException {
+        String name = directory.getFileName().toString();
+        if (!Files.isDirectory(directory) || !isJobId(name) || jobs.containsKey(name)
+                || Files.getLastModifiedTime(directory).toInstant().isAfter(cutoff)) {
+            return false;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.allMatch(file -> Files.isRegularFile(file)
+                    && PART_FILE_NAME.matcher(file.getFileName().toString()).matches());
+        }
+    }
+
+    private static boolean isJobId(String name) {
+        try {
+            return UUID.fromString(name).toString().equals(name);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    void startExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "csv-export-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    public CsvExportJob startExport() {
+        Integer minId = repository.findMinId();
+        Integer maxId = repository.findMaxId();
+        int totalParts = minId == null ? 0 : (int) (((long) maxId - minId) / rangeSize + 1);
+
+        String id = UUID.randomUUID().toString();
+        Path directory = Paths.get(exportDirectory, id);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create export directory " + directory, e);
+        }
+
+        CsvExportJob job = new CsvExportJob(id, minId == null ? 0 : minId, maxId == null ? 0 : maxId,
+                rangeSize, totalParts, directory);
+        jobs.put(id, job);
+        submitPendingParts(job);
+        return job;
+    }
+
+    public CsvExportJob getJob(String id) {
+        CsvExportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ExportJobNotFoundException("Export job not found with id: " + id);
+        }
+        return job;
+    }
+
+    /**
+     * Re-submits the parts of a failed job that have not been written yet; finished parts are kept.
+     */
+    public CsvExportJob resumeExport(String id) {
+        CsvExportJob job = getJob(id);
+        synchronized (job) {
+            if (jobs.get(id) != job) {
+                throw new ExportJobNotFoundException("Export job not found with id: " + id);
+            }
+            if (job.getStatus() == CsvExportJob.Status.FAILED) {
+                job.markRunning();
+                submitPendingParts(job);
+            }
+        }
+        return job;
+    }
+
+    public CsvExportJob getCompletedJob(String id) {
+        CsvExportJob job = getJob(id);
+        if (job.getStatus() != CsvExportJob.Status.COMPLETED) {
+            throw new ExportJobNotReadyException("Export job " + id + " is " + job.getStatus());
+        }
+        return job;
+    }
+
+    /**
+     * Opens a finished export for reading; the job cannot be deleted until the returned stream is closed.
+     */
+    public CsvExportInputStream openExport(CsvExportJob job) throws IOException {
+        synchronized (job) {
+            if (jobs.get(job.getId()) != job) {
+                throw new ExportJobNotFoundException("Export job not found with id: " + job.getId());
+            }
+            job.acquireReader();
+        }
+        try {
+            return new CsvExportInputStream(job, csvHeader());
+        } catch (IOException | RuntimeException e) {
+            job.releaseReader();
+            throw e;
+        }
+    }
+
+    public String deleteExport(String id) {
+        CsvExportJob job = getJob(id);
+        synchronized (job) {
+            if (job.isBusy()) {
+                throw new ExportJobNotReadyException("Export job " + id + " is still running");
+            }
+            if (!jobs.remove(id, job)) {
+                throw new ExportJobNotFoundException("Export job not found with id: " + id);
+            }
+            try {
+                FileSystemUtils.deleteRecursively(job.getDirectory());
+            } catch (IOException e) {
+                jobs.put(id, job);
+                throw new UncheckedIOException("Could not delete export directory " + job.getDirectory(), e);
+            }
+        }
+        return "export removed !! " + id;
+    }
+
+    @Scheduled(fixedDelayString = "${app.export.cleanup-interval-ms:600000}")
+    public void removeExpiredExports() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        for (CsvExportJob job : jobs.values()) {
+            LocalDateTime finishedAt = job.getFinishedAt();
+            if (finishedAt != null && finishedAt.isBefore(cutoff) && !job.isBusy()) {
+                try {
+                    deleteExport(job.getId());
+                } catch (RuntimeException e) {
+                    // resumed, removed or not deletable right now; the next run retries
+                }
+            }
+        }
+        removeStaleExports();
+    }
+
+    private static byte[] csvHeader() {
+        return (ProductService.CSV_HEADER + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void submitPendingParts(CsvExportJob job) {
+        for (int part = 0; part < job.getTotalParts(); part++) {
+            if (job.claimPart(part)) {
+                int claimed = part;
+                executor.execute(() -> exportPart(job, claimed));
+            }
+        }
+        job.markCompletedIfAllPartsDone();
+    }
+
+    private void exportPart(CsvExportJob job, int part) {
+        Path target = job.partFile(part);
+        Path tmp = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            List<Product> products = repository.findByIdBetweenOrderByIdAsc(job.partFromId(part), job.partToId(part));
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(tmp, StandardCharsets.UTF_8))) {
+                for (Product product : products) {
+                    ProductService.writeCsvRow(writer, product);
+                }
+                if (writer.checkError()) {
+                    throw new IOException("Could not write " + tmp);
+                }
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.completePart(part);
+        } catch (Throwable e) {
+            // also on Errors such as OutOfMemoryError, so the part never stays PART_RUNNING
+            job.failPart(part, "Part " + part + " failed: " + e);
+            if (e instanceof Error error) {
+                throw error;
+            }
+        } finally {
+            DbTimeTracker.reset();
+        }
+    }
+}
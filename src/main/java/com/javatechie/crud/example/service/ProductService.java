@@ -5,6 +5,7 @@ import com.javatechie.crud.example.entity.Product;
 import com.javatechie.crud.example.repository.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -12,21 +13,28 @@ import java.util.List;
 
 @Service
 public class ProductService {
+
+    static final String CSV_HEADER = "id,name,quantity,price";
+
     @Autowired
     private ProductRepository repository;
 
+    @Transactional(timeoutString = "${app.db.timeout.write-seconds:10}")
     public Product saveProduct(Product product) {
         return repository.save(product);
     }
 
+    @Transactional(timeoutString = "${app.db.timeout.bulk-write-seconds:60}")
     public List<Product> saveProducts(List<Product> products) {
         return repository.saveAll(products);
     }
 
+    @Transactional(readOnly = true, timeoutString = "${app.db.timeout.read-seconds:5}")
     public List<Product> getProducts() {
         return repository.findAll();
     }
 
+    @Transactional(readOnly = true, timeoutString = "${app.db.timeout.read-seconds:5}")
     public Product getProductById(int id) {
         return repository.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with id: " + id)
@@ -34,11 +42,13 @@ public class ProductService {
 
     }
 
+    @Transactional(readOnly = true, timeoutString = "${app.db.timeout.read-seconds:5}")
     public Product getProductByName(String name) {
         return repository.findByName(name).orElseThrow(()->
                 new ProductNotFoundException("Product not found with name: " + name));
     }
 
+    @Transactional(timeoutString = "${app.db.timeout.write-seconds:10}")
     public String deleteProduct(int id) {
         repository.findById(id)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with id: " + id));
@@ -46,6 +56,7 @@ public class ProductService {
         return "product removed !! " + id;
     }
 
+    @Transactional(timeoutString = "${app.db.timeout.write-seconds:10}")
     public Product updateProduct(Product product) {
         Product existingProduct = repository.findById(product.getId())
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with id: " + product.getId()));
@@ -58,26 +69,31 @@ public class ProductService {
         return repository.save(existingProduct);
     }
 
+    @Transactional(readOnly = true, timeoutString = "${app.db.timeout.export-seconds:60}")
     public String generateProductsCsv() {
         List<Product> products = repository.findAll();
 
         StringWriter stringWriter = new StringWriter();
         try (PrintWriter writer = new PrintWriter(stringWriter)) {
             // header
-            writer.println("id,name,quantity,price");
+            writer.println(CSV_HEADER);
             for (Product product : products) {
-                writer.printf("%d,%s,%d,%.2f%n",
-                        product.getId(),
-                        escapeCsv(product.getName()),
-                        product.getQuantity(),
-                        product.getPrice());
+                writeCsvRow(writer, product);
             }
         }
 
         return stringWriter.toString();
     }
 
-    private String escapeCsv(String value) {
+    static void writeCsvRow(PrintWriter writer, Product product) {
+        writer.printf("%d,%s,%d,%.2f%n",
+                product.getId(),
+                escapeCsv(product.getName()),
+                product.getQuantity(),
+                product.getPrice());
+    }
+
+    private static String escapeCsv(String value) {
         if (value == null) {
             return "";
         }
@@ -0,0 +1,54 @@
+package com.javatechie.crud.example;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javatechie.crud.example.entity.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs against the real H2 database, so the header is only non-zero when Hibernate actually
+ * registered {@code DbTimeSessionEventListener} through {@code hibernate.session.events.auto}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class DbTimeHeaderIntegrationTest {
+
+    private static final String NON_ZERO_STATEMENTS = "db;dur=\\d+\\.\\d{3};desc=\"[1-9]\\d* statements\", db-pool;dur=\\d+\\.\\d{3}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("addProduct_whenSaved_reportsExecutedStatements")
+    void addProduct_whenSaved_reportsExecutedStatements() throws Exception {
+        // when / then
+        mockMvc.perform(post("/addProduct")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new Product(0, "TV", 10, 1000.0))))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", matchesPattern(NON_ZERO_STATEMENTS)));
+    }
+
+    @Test
+    @DisplayName("getProducts_whenQueried_reportsExecutedStatements")
+    void getProducts_whenQueried_reportsExecutedStatements() throws Exception {
+        // when / then
+        mockMvc.perform(get("/products"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", matchesPattern(NON_ZERO_STATEMENTS)));
+    }
+}
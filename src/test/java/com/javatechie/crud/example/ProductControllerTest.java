@@ -1,9 +1,12 @@
 package com.javatechie.crud.example;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javatechie.crud.example.ProductException.ExportJobNotFoundException;
+import com.javatechie.crud.example.ProductException.ExportJobNotReadyException;
 import com.javatechie.crud.example.ProductException.GlobalExceptionHandler;
 import com.javatechie.crud.example.ProductException.ProductNotFoundException;
 import com.javatechie.crud.example.entity.Product;
+import com.javatechie.crud.example.service.ProductExportService;
 import com.javatechie.crud.example.service.ProductService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +41,9 @@ class ProductControllerTest {
     @MockBean
     private ProductService productService;
 
+    @MockBean
+    private ProductExportService productExportService;
+
     @Test
     @DisplayName("addProduct_whenValidRequest_returnsCreatedProduct")
     void addProduct_whenValidRequest_returnsCreatedProduct() throws Exception {
@@ -171,5 +177,44 @@ class ProductControllerTest {
                 .andExpect(content().contentType("text/csv"))
                 .andExpect(content().string(containsString("id,name,quantity,price")));
     }
-}
 
+    @Test
+    @DisplayName("getProducts_whenRequested_reportsDbTimeInServerTimingHeader")
+    void getProducts_whenRequested_reportsDbTimeInServerTimingHeader() throws Exception {
+        // given
+        when(productService.getProducts()).thenReturn(Collections.emptyList());
+
+        // when / then
+        mockMvc.perform(get("/products"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", startsWith("db;dur=")))
+                .andExpect(header().string("Server-Timing", containsString("db-pool;dur=")));
+    }
+
+    @Test
+    @DisplayName("getProductsCsvExport_whenJobMissing_returnsErrorResponse")
+    void getProductsCsvExport_whenJobMissing_returnsErrorResponse() throws Exception {
+        // given
+        when(productExportService.getJob("missing")).thenThrow(new ExportJobNotFoundException("Export job not found with id: missing"));
+
+        // when / then
+        mockMvc.perform(get("/products/csv/jobs/{id}", "missing"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status", is(404)))
+                .andExpect(jsonPath("$.message", is("Export job not found with id: missing")))
+                .andExpect(jsonPath("$.path", is("/products/csv/jobs/missing")));
+    }
+
+    @Test
+    @DisplayName("downloadProductsCsvExport_whenJobRunning_returnsConflict")
+    void downloadProductsCsvExport_whenJobRunning_returnsConflict() throws Exception {
+        // given
+        when(productExportService.getCompletedJob("job-1")).thenThrow(new ExportJobNotReadyException("Export job job-1 is RUNNING"));
+
+        // when / then
+        mockMvc.perform(get("/products/csv/jobs/{id}/download", "job-1"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status", is(409)))
+                .andExpect(jsonPath("$.message", is("Export job job-1 is RUNNING")));
+    }
+}
@@ -0,0 +1,99 @@
+package com.javatechie.crud.example;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javatechie.crud.example.entity.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs a real partitioned export (one id per part) and downloads it with and without {@code Range} headers.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:exporttest",
+        "app.export.range-size=1"
+})
+@AutoConfigureMockMvc
+class ProductExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("downloadProductsCsvExport_whenRangeRequested_returnsPartialContent")
+    void downloadProductsCsvExport_whenRangeRequested_returnsPartialContent() throws Exception {
+        // given
+        mockMvc.perform(post("/addProducts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(
+                                new Product(0, "TV", 10, 1000.0),
+                                new Product(0, "Laptop", 5, 2000.0),
+                                new Product(0, "Radio", 3, 50.0)))))
+                .andExpect(status().isOk());
+        String id = awaitCompleted(startExport());
+        String full = mockMvc.perform(get("/products/csv/jobs/{id}/download", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andReturn().getResponse().getContentAsString();
+        int size = full.length();
+
+        // when / then
+        mockMvc.perform(get("/products/csv/jobs/{id}/download", id).header(HttpHeaders.RANGE, "bytes=10-40"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 10-40/" + size))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 31))
+                .andExpect(content().string(full.substring(10, 41)));
+
+        mockMvc.perform(get("/products/csv/jobs/{id}/download", id).header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes " + (size - 5) + "-" + (size - 1) + "/" + size))
+                .andExpect(content().string(full.substring(size - 5)));
+
+        mockMvc.perform(get("/products/csv/jobs/{id}/download", id).header(HttpHeaders.RANGE, "bytes=" + size + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + size));
+
+        // every download stream was closed, so the job is no longer busy
+        mockMvc.perform(delete("/products/csv/jobs/{id}", id))
+                .andExpect(status().isOk());
+    }
+
+    private String startExport() throws Exception {
+        String body = mockMvc.perform(post("/products/csv/jobs"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asText();
+    }
+
+    private String awaitCompleted(String id) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String status;
+        do {
+            Thread.sleep(10);
+            JsonNode job = objectMapper.readTree(mockMvc.perform(get("/products/csv/jobs/{id}", id))
+                    .andReturn().getResponse().getContentAsString());
+            status = job.get("status").asText();
+        } while ("RUNNING".equals(status) && System.currentTimeMillis() < deadline);
+        assertEquals("COMPLETED", status);
+        return id;
+    }
+}
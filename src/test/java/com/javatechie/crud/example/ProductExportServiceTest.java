@@ -0,0 +1,292 @@
+package com.javatechie.crud.example;
+
+import com.javatechie.crud.example.ProductException.ExportJobNotFoundException;
+import com.javatechie.crud.example.ProductException.ExportJobNotReadyException;
+import com.javatechie.crud.example.entity.Product;
+import com.javatechie.crud.example.repository.ProductRepository;
+import com.javatechie.crud.example.service.CsvExportInputStream;
+import com.javatechie.crud.example.service.CsvExportJob;
+import com.javatechie.crud.example.service.ProductExportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductExportServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductExportService exportService;
+
+    @TempDir
+    Path exportDirectory;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(exportService, "exportDirectory", exportDirectory.toString());
+        ReflectionTestUtils.setField(exportService, "rangeSize", 2);
+        ReflectionTestUtils.setField(exportService, "parallelism", 2);
+        ReflectionTestUtils.setField(exportService, "retention", Duration.ofHours(24));
+        ReflectionTestUtils.invokeMethod(exportService, "startExecutor");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.invokeMethod(exportService, "stopExecutor");
+    }
+
+    @Test
+    @DisplayName("startExport_whenProductsExist_writesRangesInIdOrder")
+    void startExport_whenProductsExist_writesRangesInIdOrder() throws Exception {
+        // given
+        when(productRepository.findMinId()).thenReturn(1);
+        when(productRepository.findMaxId()).thenReturn(5);
+        when(productRepository.findByIdBetweenOrderByIdAsc(1, 2)).thenReturn(Arrays.asList(
+                new Product(1, "TV", 10, 1000.0), new Product(2, "Laptop", 5, 2000.0)));
+        when(productRepository.findByIdBetweenOrderByIdAsc(3, 4)).thenReturn(Collections.singletonList(
+                new Product(4, "Phone", 7, 500.0)));
+        when(productRepository.findByIdBetweenOrderByIdAsc(5, 5)).thenReturn(Collections.singletonList(
+                new Product(5, "Radio", 3, 50.0)));
+
+        // when
+        CsvExportJob job = awaitFinished(exportService.startExport());
+
+        // then
+        assertEquals(CsvExportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(3, job.getTotalParts());
+        assertEquals(3, job.getCompletedParts());
+        String[] lines = download(job).split("\\r?\\n");
+        assertEquals("id,name,quantity,price", lines[0]);
+        assertTrue(lines[1].startsWith("1,TV"));
+        assertTrue(lines[2].startsWith("2,Laptop"));
+        assertTrue(lines[3].startsWith("4,Phone"));
+        assertTrue(lines[4].startsWith("5,Radio"));
+    }
+
+    @Test
+    @DisplayName("resumeExport_whenPartFailed_rerunsOnlyFailedPart")
+    void resumeExport_whenPartFailed_rerunsOnlyFailedPart() throws Exception {
+        // given
+        when(productRepository.findMinId()).thenReturn(1);
+        when(productRepository.findMaxId()).thenReturn(4);
+        when(productRepository.findByIdBetweenOrderByIdAsc(1, 2)).thenReturn(Collections.singletonList(
+                new Product(1, "TV", 10, 1000.0)));
+        when(productRepository.findByIdBetweenOrderByIdAsc(3, 4))
+                .thenThrow(new IllegalStateException("connection reset"))
+                .thenReturn(Collections.singletonList(new Product(3, "Phone", 7, 500.0)));
+
+        CsvExportJob job = awaitFinished(exportService.startExport());
+        assertEquals(CsvExportJob.Status.FAILED, job.getStatus());
+        assertThrows(ExportJobNotReadyException.class, () -> exportService.getCompletedJob(job.getId()));
+
+        // when
+        awaitFinished(exportService.resumeExport(job.getId()));
+
+        // then
+        assertEquals(CsvExportJob.Status.COMPLETED, job.getStatus());
+        verify(productRepository, times(1)).findByIdBetweenOrderByIdAsc(1, 2);
+        verify(productRepository, times(2)).findByIdBetweenOrderByIdAsc(3, 4);
+        assertTrue(download(job).contains("3,Phone"));
+    }
+
+    @Test
+    @DisplayName("startExport_whenTableEmpty_completesWithHeaderOnly")
+    void startExport_whenTableEmpty_completesWithHeaderOnly() throws Exception {
+        // given
+        when(productRepository.findMinId()).thenReturn(null);
+        when(productRepository.findMaxId()).thenReturn(null);
+
+        // when
+        CsvExportJob job = exportService.startExport();
+
+        // then
+        assertEquals(CsvExportJob.Status.COMPLETED, job.getStatus());
+        assertEquals("id,name,quantity,price", download(job).trim());
+    }
+
+    @Test
+    @DisplayName("getJob_whenUnknownId_throwsExportJobNotFoundException")
+    void getJob_whenUnknownId_throwsExportJobNotFoundException() {
+        // when / then
+        assertThrows(ExportJobNotFoundException.class, () -> exportService.getJob("missing"));
+    }
+
+    @Test
+    @DisplayName("deleteExport_whenJobRunning_throwsExportJobNotReadyException")
+    void deleteExport_whenJobRunning_throwsExportJobNotReadyException() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        when(productRepository.findMinId()).thenReturn(1);
+        when(productRepository.findMaxId()).thenReturn(2);
+        when(productRepository.findByIdBetweenOrderByIdAsc(1, 2)).thenAnswer(invocation -> {
+            release.await();
+            return Collections.singletonList(new Product(1, "TV", 10, 1000.0));
+        });
+        CsvExportJob job = exportService.startExport();
+
+        // when / then
+        assertThrows(ExportJobNotReadyException.class, () -> exportService.deleteExport(job.getId()));
+        assertSame(job, exportService.getJob(job.getId()));
+
+        release.countDown();
+        awaitFinished(job);
+        exportService.deleteExport(job.getId());
+        assertThrows(ExportJobNotFoundException.class, () -> exportService.getJob(job.getId()));
+        assertFalse(Files.exists(exportDirectory.resolve(job.getId())));
+    }
+
+    @Test
+    @DisplayName("removeExpiredExports_whenRetentionElapsed_deletesFinishedJobs")
+    void removeExpiredExports_whenRetentionElapsed_deletesFinishedJobs() {
+        // given
+        when(productRepository.findMinId()).thenReturn(null);
+        when(productRepository.findMaxId()).thenReturn(null);
+        CsvExportJob job = exportService.startExport();
+        ReflectionTestUtils.setField(exportService, "retention", Duration.ofSeconds(-1));
+
+        // when
+        exportService.removeExpiredExports();
+
+        // then
+        assertThrows(ExportJobNotFoundException.class, () -> exportService.getJob(job.getId()));
+        assertFalse(Files.exists(exportDirectory.resolve(job.getId())));
+    }
+
+    @Test
+    @DisplayName("removeStaleExports_whenOldJobDirectoryLeft_deletesOnlyThatDirectory")
+    void removeStaleExports_whenOldJobDirectoryLeft_deletesOnlyThatDirectory() throws Exception {
+        // given
+        FileTime twoDaysAgo = FileTime.from(Instant.now().minus(Duration.ofDays(2)));
+        Path stale = jobDirectory(UUID.randomUUID().toString(), "part-000000.csv", "part-000001.csv.tmp");
+        Files.setLastModifiedTime(stale, twoDaysAgo);
+        Path unrelated = jobDirectory("unrelated", "part-000000.csv");
+        Files.setLastModifiedTime(unrelated, twoDaysAgo);
+        Path foreignFiles = jobDirectory(UUID.randomUUID().toString(), "notes.txt");
+        Files.setLastModifiedTime(foreignFiles, twoDaysAgo);
+        Path otherInstanceRunning = jobDirectory(UUID.randomUUID().toString(), "part-000000.csv.tmp");
+
+        // when
+        ReflectionTestUtils.invokeMethod(exportService, "removeStaleExports");
+
+        // then
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(unrelated.resolve("part-000000.csv")));
+        assertTrue(Files.exists(foreignFiles.resolve("notes.txt")));
+        assertTrue(Files.exists(otherInstanceRunning.resolve("part-000000.csv.tmp")));
+    }
+
+    @Test
+    @DisplayName("deleteExport_whenDownloadOpen_throwsExportJobNotReadyException")
+    void deleteExport_whenDownloadOpen_throwsExportJobNotReadyException() throws Exception {
+        // given
+        when(productRepository.findMinId()).thenReturn(1);
+        when(productRepository.findMaxId()).thenReturn(1);
+        when(productRepository.findByIdBetweenOrderByIdAsc(1, 1)).thenReturn(Collections.singletonList(
+                new Product(1, "TV", 10, 1000.0)));
+        CsvExportJob job = awaitFinished(exportService.startExport());
+        CsvExportInputStream download = exportService.openExport(exportService.getCompletedJob(job.getId()));
+
+        // when / then
+        assertThrows(ExportJobNotReadyException.class, () -> exportService.deleteExport(job.getId()));
+        ReflectionTestUtils.setField(exportService, "retention", Duration.ofSeconds(-1));
+        exportService.removeExpiredExports();
+        assertSame(job, exportService.getJob(job.getId()));
+
+        download.close();
+        exportService.deleteExport(job.getId());
+        assertThrows(ExportJobNotFoundException.class, () -> exportService.getJob(job.getId()));
+    }
+
+    @Test
+    @DisplayName("startExport_whenPartThrowsError_marksJobFailed")
+    void startExport_whenPartThrowsError_marksJobFailed() throws Exception {
+        // given
+        when(productRepository.findMinId()).thenReturn(1);
+        when(productRepository.findMaxId()).thenReturn(2);
+        when(productRepository.findByIdBetweenOrderByIdAsc(1, 2)).thenThrow(new OutOfMemoryError("Java heap space"));
+
+        // when
+        CsvExportJob job = awaitFinished(exportService.startExport());
+
+        // then
+        assertEquals(CsvExportJob.Status.FAILED, job.getStatus());
+        assertTrue(job.getError().contains("OutOfMemoryError"));
+        assertNotNull(job.getFinishedAt());
+        exportService.deleteExport(job.getId());
+    }
+
+    @Test
+    @DisplayName("openExport_whenSkippedAndLimited_returnsRequestedRangeAcrossParts")
+    void openExport_whenSkippedAndLimited_returnsRequestedRangeAcrossParts() throws Exception {
+        // given
+        when(productRepository.findMinId()).thenReturn(1);
+        when(productRepository.findMaxId()).thenReturn(6);
+        when(productRepository.findByIdBetweenOrderByIdAsc(1, 2)).thenReturn(Arrays.asList(
+                new Product(1, "TV", 10, 1000.0), new Product(2, "Laptop", 5, 2000.0)));
+        when(productRepository.findByIdBetweenOrderByIdAsc(3, 4)).thenReturn(Collections.emptyList());
+        when(productRepository.findByIdBetweenOrderByIdAsc(5, 6)).thenReturn(Collections.singletonList(
+                new Product(5, "Radio", 3, 50.0)));
+        CsvExportJob job = awaitFinished(exportService.startExport());
+        String full = download(job);
+
+        // when
+        String range;
+        try (CsvExportInputStream in = exportService.openExport(job)) {
+            assertEquals(full.length(), in.getSize());
+            assertEquals(20, in.skip(20));
+            in.limit(full.length() - 25);
+            range = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // then
+        assertEquals(full.substring(20, full.length() - 5), range);
+    }
+
+    private CsvExportJob awaitFinished(CsvExportJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (job.getStatus() == CsvExportJob.Status.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        return job;
+    }
+
+    private String download(CsvExportJob job) throws Exception {
+        CsvExportJob completed = exportService.getCompletedJob(job.getId());
+        try (CsvExportInputStream in = exportService.openExport(completed)) {
+            byte[] content = in.readAllBytes();
+            assertEquals(in.getSize(), content.length);
+            return new String(content, StandardCharsets.UTF_8);
+        }
+    }
+
+    private Path jobDirectory(String name, String... files) throws Exception {
+        Path directory = Files.createDirectories(exportDirectory.resolve(name));
+        for (String file : files) {
+            Files.writeString(directory.resolve(file), "1,TV,10,1000.00");
+        }
+        return directory;
+    }
+}
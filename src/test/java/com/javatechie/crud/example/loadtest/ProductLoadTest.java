@@ -0,0 +1,121 @@
+package com.javatechie.crud.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.javatechie.crud.example.entity.Product;
+import com.javatechie.crud.example.repository.ProductRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * End-to-end throughput run against the real HTTP endpoints, backed by an in-memory H2 database.
+ * The table is emptied and reseeded to {@code loadtest.products} rows before each warm-up and each measured
+ * phase, so every workload sees the same data size regardless of order or of how fast earlier phases ran.
+ * Excluded from the default build; run with {@code mvn -Pload-test test}. Settings are system properties:
+ * <ul>
+ *     <li>{@code loadtest.products} - rows seeded before the run (default 10000)</li>
+ *     <li>{@code loadtest.workloads} - comma separated, from read-heavy, write-heavy, csv-export, bulk-import</li>
+ *     <li>{@code loadtest.threads}, {@code loadtest.warmupSeconds}, {@code loadtest.durationSeconds}</li>
+ *     <li>{@code loadtest.bulkSize} - products per {@code /addProducts} request (default 100)</li>
+ *     <li>{@code loadtest.requestTimeoutSeconds} - per-request timeout, counted as an error (default 30)</li>
+ *     <li>{@code loadtest.output} - JSON report path (default target/load-test/results.json)</li>
+ * </ul>
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "spring.h2.console.enabled=false",
+        "logging.level.root=WARN"
+})
+class ProductLoadTest {
+
+    private static final int SEED_BATCH_SIZE = 1000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductRepository repository;
+
+    static String seededName(int index) {
+        return "product-" + index;
+    }
+
+    @Test
+    void runWorkloads() throws Exception {
+        int products = Integer.getInteger("loadtest.products", 10_000);
+        int threads = Integer.getInteger("loadtest.threads", 8);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 5));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 20));
+        int bulkSize = Integer.getInteger("loadtest.bulkSize", 100);
+        Duration requestTimeout = Duration.ofSeconds(Integer.getInteger("loadtest.requestTimeoutSeconds", 30));
+        String workloads = System.getProperty("loadtest.workloads", "read-heavy,write-heavy,csv-export,bulk-import");
+        Path output = Paths.get(System.getProperty("loadtest.output", "target/load-test/results.json"));
+
+        WorkloadRunner runner = new WorkloadRunner("http://localhost:" + port, bulkSize, requestTimeout);
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String id : workloads.split(",")) {
+            Workload workload = Workload.fromId(id.trim());
+            runner.run(workload, reseed(products), threads, warmup);
+
+            int[] seededIds = reseed(products);
+            Map<String, Object> result = runner.run(workload, seededIds, threads, duration);
+            result.put("rowsAtStart", seededIds.length);
+            result.put("rowsAtEnd", repository.count());
+            System.out.printf("%-12s %10.1f req/s  p50=%s ms  p99=%s ms  p999=%s ms  errors=%s%n",
+                    result.get("workload"), result.get("throughputPerSecond"),
+                    ((Map<?, ?>) result.get("latencyMs")).get("p50"),
+                    ((Map<?, ?>) result.get("latencyMs")).get("p99"),
+                    ((Map<?, ?>) result.get("latencyMs")).get("p999"),
+                    result.get("errors"));
+            results.add(result);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("timestamp", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("seededProducts", products);
+        report.put("results", results);
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+        System.out.println("Load test report written to " + output.toAbsolutePath());
+
+        assertTrue(results.stream().allMatch(result -> ((Number) result.get("requests")).longValue() > 0),
+                "every workload should complete at least one request");
+    }
+
+    private int[] reseed(int count) {
+        repository.deleteAllInBatch();
+        Random random = new Random(42);
+        int[] ids = new int[count];
+        for (int from = 0; from < count; from += SEED_BATCH_SIZE) {
+            List<Product> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (int i = from; i < Math.min(count, from + SEED_BATCH_SIZE); i++) {
+                batch.add(new Product(0, seededName(i), random.nextInt(1000), random.nextInt(100_000) / 100.0));
+            }
+            List<Product> saved = repository.saveAll(batch);
+            for (int i = 0; i < saved.size(); i++) {
+                ids[from + i] = saved.get(i).getId();
+            }
+        }
+        return ids;
+    }
+}
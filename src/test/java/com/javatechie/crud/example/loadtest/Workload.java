@@ -0,0 +1,68 @@
+package com.javatechie.crud.example.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Request mixes run against the {@code ProductController} endpoints. Weights are relative.
+ */
+enum Workload {
+
+    READ_HEAVY("read-heavy", Map.of(
+            Operation.GET_BY_ID, 80,
+            Operation.GET_BY_NAME, 15,
+            Operation.UPDATE, 5)),
+    WRITE_HEAVY("write-heavy", Map.of(
+            Operation.ADD, 50,
+            Operation.UPDATE, 30,
+            Operation.DELETE, 10,
+            Operation.GET_BY_ID, 10)),
+    CSV_EXPORT("csv-export", Map.of(
+            Operation.CSV_EXPORT, 1)),
+    BULK_IMPORT("bulk-import", Map.of(
+            Operation.BULK_ADD, 1));
+
+    enum Operation {
+        GET_BY_ID, GET_BY_NAME, ADD, UPDATE, DELETE, BULK_ADD, CSV_EXPORT
+    }
+
+    private final String id;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    Workload(String id, Map<Operation, Integer> weights) {
+        this.id = id;
+        Map<Operation, Integer> ordered = new EnumMap<>(weights);
+        this.operations = ordered.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += ordered.get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    String getId() {
+        return id;
+    }
+
+    Operation next(Random random) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    static Workload fromId(String id) {
+        for (Workload workload : values()) {
+            if (workload.id.equals(id)) {
+                return workload;
+            }
+        }
+        throw new IllegalArgumentException("Unknown workload: " + id);
+    }
+}
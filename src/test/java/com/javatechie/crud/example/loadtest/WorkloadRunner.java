@@ -0,0 +1,189 @@
+package com.javatechie.crud.example.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.javatechie.crud.example.entity.Product;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drives one {@link Workload} from a fixed number of closed-loop client threads and summarizes
+ * throughput, latency percentiles and error rate per operation and in total.
+ */
+class WorkloadRunner {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final int bulkSize;
+    private final Duration requestTimeout;
+
+    WorkloadRunner(String baseUrl, int bulkSize, Duration requestTimeout) {
+        this.baseUrl = baseUrl;
+        this.bulkSize = bulkSize;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Runs the workload for {@code duration}. {@code seededIds} must hold the ids of the rows named
+     * {@code product-0 .. product-(n-1)}; they are only read and updated, never deleted.
+     */
+    Map<String, Object> run(Workload workload, int[] seededIds, int threads, Duration duration) throws Exception {
+        long start = System.nanoTime();
+        List<Map<Workload.Operation, LatencyRecorder>> perWorker = runWorkers(workload, seededIds, threads, duration);
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        LatencyRecorder total = new LatencyRecorder();
+        Map<Workload.Operation, LatencyRecorder> perOperation = new EnumMap<>(Workload.Operation.class);
+        for (Map<Workload.Operation, LatencyRecorder> recorders : perWorker) {
+            recorders.forEach((operation, recorder) -> {
+                perOperation.computeIfAbsent(operation, key -> new LatencyRecorder()).merge(recorder);
+                total.merge(recorder);
+            });
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("workload", workload.getId());
+        result.put("threads", threads);
+        result.put("durationSeconds", elapsedSeconds);
+        result.putAll(total.summarize(elapsedSeconds));
+        Map<String, Object> operations = new LinkedHashMap<>();
+        perOperation.forEach((operation, recorder) ->
+                operations.put(operation.name(), recorder.summarize(elapsedSeconds)));
+        result.put("operations", operations);
+        return result;
+    }
+
+    private List<Map<Workload.Operation, LatencyRecorder>> runWorkers(Workload workload, int[] seededIds, int threads,
+                                                                     Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Map<Workload.Operation, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                long seed = i;
+                futures.add(executor.submit(() -> runWorker(workload, seededIds, deadline, new Random(seed))));
+            }
+            List<Map<Workload.Operation, LatencyRecorder>> results = new ArrayList<>();
+            for (Future<Map<Workload.Operation, LatencyRecorder>> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<Workload.Operation, LatencyRecorder> runWorker(Workload workload, int[] seededIds, long deadline,
+                                                               Random random) {
+        Map<Workload.Operation, LatencyRecorder> recorders = new EnumMap<>(Workload.Operation.class);
+        Deque<Integer> createdIds = new ArrayDeque<>();
+
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            Workload.Operation operation = workload.next(random);
+            if (operation == Workload.Operation.DELETE && createdIds.isEmpty()) {
+                operation = Workload.Operation.ADD;
+            }
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<byte[]> response = client.send(request(operation, seededIds, random, createdIds),
+                        HttpResponse.BodyHandlers.ofByteArray());
+                success = response.statusCode() / 100 == 2;
+                if (success && operation == Workload.Operation.ADD) {
+                    JsonNode id = objectMapper.readTree(response.body()).get("id");
+                    success = id != null && id.canConvertToInt();
+                    if (success) {
+                        createdIds.push(id.asInt());
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                // timeouts, connection errors and unexpected bodies all count as failed samples
+                success = false;
+            }
+            recorders.computeIfAbsent(operation, key -> new LatencyRecorder())
+                    .record(System.nanoTime() - start, success);
+        }
+        return recorders;
+    }
+
+    private HttpRequest request(Workload.Operation operation, int[] seededIds, Random random, Deque<Integer> createdIds)
+            throws IOException {
+        switch (operation) {
+            case GET_BY_ID:
+                return get("/productById/" + randomSeededId(seededIds, random));
+            case GET_BY_NAME:
+                return get("/product/" + URLEncoder.encode(ProductLoadTest.seededName(random.nextInt(seededIds.length)),
+                        StandardCharsets.UTF_8));
+            case ADD:
+                return json("/addProduct", "POST", newProduct(random));
+            case UPDATE: {
+                int id = randomSeededId(seededIds, random);
+                return json("/update", "PUT", new Product(id, null, random.nextInt(1000), random.nextInt(100_000) / 100.0));
+            }
+            case DELETE:
+                return HttpRequest.newBuilder(URI.create(baseUrl + "/delete/" + createdIds.pop()))
+                        .timeout(requestTimeout)
+                        .DELETE()
+                        .build();
+            case BULK_ADD: {
+                List<Product> products = new ArrayList<>(bulkSize);
+                for (int i = 0; i < bulkSize; i++) {
+                    products.add(newProduct(random));
+                }
+                return json("/addProducts", "POST", products);
+            }
+            case CSV_EXPORT:
+                return get("/products/csv");
+            default:
+                throw new IllegalArgumentException("Unsupported operation: " + operation);
+        }
+    }
+
+    private int randomSeededId(int[] seededIds, Random random) {
+        return seededIds[random.nextInt(seededIds.length)];
+    }
+
+    private Product newProduct(Random random) {
+        return new Product(0, "lt-" + UUID.randomUUID(), random.nextInt(1000), random.nextInt(100_000) / 100.0);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(requestTimeout).GET().build();
+    }
+
+    private HttpRequest json(String path, String method, Object body) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+}
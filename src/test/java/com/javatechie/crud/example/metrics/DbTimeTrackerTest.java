@@ -0,0 +1,54 @@
+package com.javatechie.crud.example.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DbTimeTrackerTest {
+
+    @AfterEach
+    void tearDown() {
+        DbTimeTracker.reset();
+    }
+
+    @Test
+    @DisplayName("toServerTiming_whenStatementsRecorded_formatsTotalsInMillis")
+    void toServerTiming_whenStatementsRecorded_formatsTotalsInMillis() {
+        // given
+        DbTimeTracker tracker = DbTimeTracker.current();
+        tracker.recordStatementTime(1_500_000);
+        tracker.recordStatement();
+        tracker.recordStatementTime(250_000);
+        tracker.recordStatement();
+        tracker.recordConnectionWait(120_000);
+
+        // when
+        String header = tracker.toServerTiming();
+
+        // then
+        assertEquals("db;dur=1.750;desc=\"2 statements\", db-pool;dur=0.120", header);
+    }
+
+    @Test
+    @DisplayName("reset_whenTotalsRecorded_startsFromZero")
+    void reset_whenTotalsRecorded_startsFromZero() {
+        // given
+        DbTimeTracker tracker = DbTimeTracker.current();
+        tracker.recordStatementTime(1_000_000);
+        tracker.recordStatement();
+        tracker.recordConnectionWait(1_000_000);
+
+        // when
+        DbTimeTracker.reset();
+
+        // then
+        DbTimeTracker fresh = DbTimeTracker.current();
+        assertNotSame(tracker, fresh);
+        assertEquals(0, fresh.getStatementNanos());
+        assertEquals(0, fresh.getStatementCount());
+        assertEquals(0, fresh.getConnectionWaitNanos());
+        assertEquals("db;dur=0.000;desc=\"0 statements\", db-pool;dur=0.000", fresh.toServerTiming());
+    }
+}